@@ -0,0 +1,27 @@
+package io.geerok.core.exception.event;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("io.geerok.exception.Create")
+@Label("Exception Create")
+@Description("Reflective creation of an AbstractException through ExceptionCreator")
+@Category({"Geerok", "Exception"})
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+public class ExceptionCreateEvent extends jdk.jfr.Event {
+    @Label("Error Code")
+    public String errorCode;
+
+    @Label("Exception Class")
+    public Class<?> exceptionClass;
+
+    @Label("Has Error Log")
+    public boolean hasErrorLog;
+}
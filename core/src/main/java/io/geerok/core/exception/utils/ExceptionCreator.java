@@ -1,6 +1,7 @@
 package io.geerok.core.exception.utils;
 
 import io.geerok.core.exception.AbstractException;
+import io.geerok.core.exception.event.ExceptionCreateEvent;
 
 import java.lang.reflect.Constructor;
 
@@ -19,10 +20,28 @@ public class ExceptionCreator {
     }
 
     public static AbstractException create(ExceptionInterface e) {
-        return (AbstractException) createInstance(e.getAClass(),e.getErrorCode(), e.getMessage());
+        ExceptionCreateEvent event = new ExceptionCreateEvent();
+        event.begin();
+        AbstractException exception = (AbstractException) createInstance(e.getAClass(),e.getErrorCode(), e.getMessage());
+        commit(event, e, false);
+        return exception;
     }
 
     public static AbstractException create(ExceptionInterface e, String errorLog) {
-        return (AbstractException) createInstance(e.getAClass(), e.getErrorCode(), e.getMessage(), errorLog);
+        ExceptionCreateEvent event = new ExceptionCreateEvent();
+        event.begin();
+        AbstractException exception = (AbstractException) createInstance(e.getAClass(), e.getErrorCode(), e.getMessage(), errorLog);
+        commit(event, e, true);
+        return exception;
+    }
+
+    private static void commit(ExceptionCreateEvent event, ExceptionInterface e, boolean hasErrorLog) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.errorCode = e.getErrorCode();
+            event.exceptionClass = e.getAClass();
+            event.hasErrorLog = hasErrorLog;
+            event.commit();
+        }
     }
 }
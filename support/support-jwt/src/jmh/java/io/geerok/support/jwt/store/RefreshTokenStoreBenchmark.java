@@ -0,0 +1,130 @@
+package io.geerok.support.jwt.store;
+
+import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.tokens.RefreshToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Lookup and write throughput of {@link RefreshTokenStore}.
+ * Run with {@code ./gradlew :support:support-jwt:jmh}; pass JMH options via {@code -PjmhArgs="..."}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RefreshTokenStoreBenchmark {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    @State(Scope.Benchmark)
+    public static class ReadState {
+        @Param({"100000", "1000000"})
+        int size;
+
+        Path directory;
+        RefreshTokenStore store;
+        String[] jtis;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("refresh-token-store-read");
+            store = openStore(directory, size * 2);
+
+            LocalDateTime expiresAt = LocalDateTime.now(ZONE_ID).plusDays(1);
+            jtis = new String[size];
+            for (int i = 0; i < size; i++) {
+                jtis[i] = randomJti();
+                store.save((long) i, RefreshToken.create(jtis[i], "token", expiresAt));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            store.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WriteState {
+        Path directory;
+        RefreshTokenStore store;
+        LocalDateTime expiresAt;
+
+        @Setup(Level.Iteration)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("refresh-token-store-write");
+            store = openStore(directory, 1 << 20);
+            expiresAt = LocalDateTime.now(ZONE_ID).plusDays(1);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            store.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public Optional<RefreshTokenState> find(ReadState state) {
+        return state.store.find(state.jtis[ThreadLocalRandom.current().nextInt(state.jtis.length)]);
+    }
+
+    @Benchmark
+    public Optional<RefreshTokenState> findMissing(ReadState state) {
+        return state.store.find(randomJti());
+    }
+
+    @Benchmark
+    public void save(WriteState state) {
+        state.store.save(1L, RefreshToken.create(randomJti(), "token", state.expiresAt));
+    }
+
+    private static RefreshTokenStore openStore(Path directory, int initialCapacity) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.getRefreshTokenStore().setEnabled(true);
+        jwtProperties.getRefreshTokenStore().setDirectory(directory.toString());
+        jwtProperties.getRefreshTokenStore().setInitialCapacity(initialCapacity);
+
+        RefreshTokenStore store = new RefreshTokenStore(jwtProperties);
+        store.init();
+        return store;
+    }
+
+    private static String randomJti() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
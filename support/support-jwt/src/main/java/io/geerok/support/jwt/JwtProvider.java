@@ -1,7 +1,12 @@
 package io.geerok.support.jwt;
 
+import io.geerok.support.jwt.admission.JwtAdmissionController;
+import io.geerok.support.jwt.cache.AccessTokenIssuanceCache;
 import io.geerok.support.jwt.dto.AccessTokenPayload;
+import io.geerok.support.jwt.event.JwtIssueEvent;
+import io.geerok.support.jwt.event.JwtTokenType;
 import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.store.RefreshTokenStore;
 import io.geerok.support.jwt.tokens.AccessToken;
 import io.geerok.support.jwt.tokens.RefreshToken;
 import io.jsonwebtoken.Jwts;
@@ -24,6 +29,9 @@ import java.util.UUID;
 @Slf4j
 public class JwtProvider {
     private final JwtProperties jwtProperties;
+    private final JwtAdmissionController admissionController;
+    private final AccessTokenIssuanceCache issuanceCache;
+    private final RefreshTokenStore refreshTokenStore;
     private Key accessTokenKey;
     private Key refreshTokenKey;
 
@@ -37,6 +45,41 @@ public class JwtProvider {
     }
 
     public AccessToken generateAccessToken(AccessTokenPayload payload) {
+        JwtIssueEvent event = new JwtIssueEvent(JwtTokenType.ACCESS);
+        event.begin();
+        try {
+            long cacheEpoch = issuanceCache.epoch(payload);
+            AccessToken cachedToken = issuanceCache.get(payload);
+            if (cachedToken != null) {
+                event.cached(cachedToken.token());
+                return cachedToken;
+            }
+
+            AccessToken accessToken = admissionController.execute(() -> signAccessToken(payload));
+            issuanceCache.put(payload, accessToken, cacheEpoch);
+            event.success(accessToken.token());
+            return accessToken;
+        } catch (RuntimeException e) {
+            event.failure(null, e);
+            throw e;
+        }
+    }
+
+    public RefreshToken generateRefreshToken(Long userId) {
+        JwtIssueEvent event = new JwtIssueEvent(JwtTokenType.REFRESH);
+        event.begin();
+        try {
+            RefreshToken refreshToken = admissionController.execute(() -> signRefreshToken(userId));
+            refreshTokenStore.save(userId, refreshToken);
+            event.success(refreshToken.token());
+            return refreshToken;
+        } catch (RuntimeException e) {
+            event.failure(null, e);
+            throw e;
+        }
+    }
+
+    private AccessToken signAccessToken(AccessTokenPayload payload) {
         ZoneId zoneId = ZoneId.of("Asia/Seoul");
         LocalDateTime now = LocalDateTime.now(zoneId);
         LocalDateTime expiresAt = now.plusSeconds(jwtProperties.getAccessToken().getExpiresIn());
@@ -54,7 +97,7 @@ public class JwtProvider {
         return AccessToken.create(token, expiresAt);
     }
 
-    public RefreshToken generateRefreshToken(Long userId) {
+    private RefreshToken signRefreshToken(Long userId) {
         ZoneId zoneId = ZoneId.of("Asia/Seoul");
         LocalDateTime now = LocalDateTime.now(zoneId);
         LocalDateTime expiresAt = now.plusSeconds(jwtProperties.getRefreshToken().getExpiresIn());
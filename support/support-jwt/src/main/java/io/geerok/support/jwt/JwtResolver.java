@@ -1,9 +1,13 @@
 package io.geerok.support.jwt;
 
 import io.geerok.core.exception.utils.ExceptionCreator;
+import io.geerok.support.jwt.admission.JwtAdmissionController;
 import io.geerok.support.jwt.dto.AccessTokenPayload;
 import io.geerok.support.jwt.dto.RefreshTokenPayload;
+import io.geerok.support.jwt.event.JwtTokenType;
+import io.geerok.support.jwt.event.JwtVerifyEvent;
 import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.store.RefreshTokenStore;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.DecodingException;
 import io.jsonwebtoken.security.Keys;
@@ -30,6 +34,8 @@ public class JwtResolver {
     private Key refreshTokenKey;
 
     private final ObjectMapper objectMapper;
+    private final JwtAdmissionController admissionController;
+    private final RefreshTokenStore refreshTokenStore;
 
     @PostConstruct
     public void init() {
@@ -41,6 +47,32 @@ public class JwtResolver {
     }
 
     public AccessTokenPayload getPayloadFromAccessToken(String token) {
+        JwtVerifyEvent event = new JwtVerifyEvent(JwtTokenType.ACCESS);
+        event.begin();
+        try {
+            AccessTokenPayload payload = admissionController.execute(() -> parseAccessToken(token));
+            event.success(token);
+            return payload;
+        } catch (RuntimeException e) {
+            event.failure(token, e);
+            throw e;
+        }
+    }
+
+    public RefreshTokenPayload getPayloadFromRefreshToken(String token) {
+        JwtVerifyEvent event = new JwtVerifyEvent(JwtTokenType.REFRESH);
+        event.begin();
+        try {
+            RefreshTokenPayload payload = admissionController.execute(() -> parseRefreshToken(token));
+            event.success(token);
+            return payload;
+        } catch (RuntimeException e) {
+            event.failure(token, e);
+            throw e;
+        }
+    }
+
+    private AccessTokenPayload parseAccessToken(String token) {
         try {
             if (token == null) throw ExceptionCreator.create(ACCESS_TOKEN_NOT_FOUND);
 
@@ -67,7 +99,7 @@ public class JwtResolver {
         }
     }
 
-    public RefreshTokenPayload getPayloadFromRefreshToken(String token) {
+    private RefreshTokenPayload parseRefreshToken(String token) {
         try {
             if (token == null) throw ExceptionCreator.create(REFRESH_TOKEN_NOT_FOUND);
 
@@ -77,7 +109,12 @@ public class JwtResolver {
                     .parseClaimsJws(token)
                     .getBody();
 
-            return new RefreshTokenPayload(claims.get("user_id", Long.class));
+            String jti = claims.get("jti", String.class);
+            if (refreshTokenStore.isRejected(jti)) {
+                throw ExceptionCreator.create(REFRESH_TOKEN_INVALID, "RefreshToken: " + token);
+            }
+
+            return new RefreshTokenPayload(claims.get("user_id", Long.class), jti);
         } catch (SecurityException | UnsupportedJwtException | SignatureException | MalformedJwtException | DecodingException e) {
             throw ExceptionCreator.create(REFRESH_TOKEN_INVALID, "RefreshToken: " + token);
         } catch (ExpiredJwtException e) {
@@ -0,0 +1,9 @@
+package io.geerok.support.jwt.admission;
+
+public record AdmissionSnapshot(
+        int limit,
+        int inFlight,
+        int queued,
+        long rejected
+) {
+}
@@ -0,0 +1,149 @@
+package io.geerok.support.jwt.admission;
+
+import io.geerok.core.exception.utils.ExceptionCreator;
+import io.geerok.support.jwt.properties.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static io.geerok.support.jwt.exception.JwtException.TOKEN_OPERATION_OVERLOADED;
+
+/**
+ * Bounds the number of concurrent signing / verification operations.
+ * Requests beyond the limit wait in a short bounded queue and are rejected with
+ * {@code TOKEN_OPERATION_OVERLOADED} once the queue is full or the wait times out.
+ * With {@code adaptive} enabled the limit follows AIMD on the observed latency.
+ */
+@Slf4j
+@Component
+public class JwtAdmissionController {
+    private final boolean enabled;
+    private final boolean adaptive;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int queueSize;
+    private final long queueTimeoutNanos;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecreaseNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+
+    public JwtAdmissionController(JwtProperties jwtProperties) {
+        JwtProperties.Admission admission = jwtProperties.getAdmission() != null
+                ? jwtProperties.getAdmission()
+                : new JwtProperties.Admission();
+
+        this.enabled = admission.isEnabled();
+        this.adaptive = admission.isAdaptive();
+        this.minLimit = Math.max(1, admission.getMinLimit());
+        this.maxLimit = Math.max(minLimit, admission.getMaxLimit());
+        this.queueSize = Math.max(0, admission.getQueueSize());
+        this.queueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(admission.getQueueTimeoutMillis());
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(admission.getLatencyThresholdMillis());
+        this.backoffRatio = admission.getBackoffRatio();
+        this.limit = new AtomicInteger(Math.clamp(admission.getLimit(), minLimit, maxLimit));
+        this.lastDecreaseNanos = new AtomicLong(System.nanoTime() - latencyThresholdNanos - 1);
+    }
+
+    public <T> T execute(Supplier<T> operation) {
+        if (!enabled) return operation.get();
+
+        if (!acquire()) {
+            rejected.increment();
+            throw ExceptionCreator.create(TOKEN_OPERATION_OVERLOADED, "Admission: " + snapshot());
+        }
+
+        int inFlightAtStart = inFlight.get();
+        long start = System.nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            release();
+            if (adaptive) adjustLimit(System.nanoTime() - start, inFlightAtStart);
+        }
+    }
+
+    public AdmissionSnapshot snapshot() {
+        return new AdmissionSnapshot(limit.get(), inFlight.get(), queued.get(), rejected.sum());
+    }
+
+    private boolean tryAcquire() {
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= limit.get()) return false;
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private boolean acquire() {
+        if (tryAcquire()) return true;
+        if (!tryEnqueue()) return false;
+
+        Thread current = Thread.currentThread();
+        waiters.offer(current);
+        try {
+            long deadline = System.nanoTime() + queueTimeoutNanos;
+            for (;;) {
+                if (tryAcquire()) return true;
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0 || current.isInterrupted()) return false;
+                LockSupport.parkNanos(this, remaining);
+            }
+        } finally {
+            waiters.remove(current);
+            queued.decrementAndGet();
+        }
+    }
+
+    private boolean tryEnqueue() {
+        for (;;) {
+            int current = queued.get();
+            if (current >= queueSize) return false;
+            if (queued.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        Thread waiter = waiters.peek();
+        if (waiter != null) LockSupport.unpark(waiter);
+    }
+
+    /**
+     * Decreases at most once per latency window, so one pause that slows every in-flight operation
+     * backs off once instead of once per completion.
+     */
+    private void adjustLimit(long elapsedNanos, int inFlightAtStart) {
+        if (elapsedNanos > latencyThresholdNanos) {
+            long now = System.nanoTime();
+            long lastDecrease = lastDecreaseNanos.get();
+            if (now - lastDecrease <= latencyThresholdNanos || !lastDecreaseNanos.compareAndSet(lastDecrease, now)) return;
+
+            int previous = limit.getAndUpdate(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+            log.debug("Jwt admission limit decreased: {} -> {}", previous, limit.get());
+            return;
+        }
+
+        int current = limit.get();
+        if (inFlightAtStart * 2 < current || current >= maxLimit) return;
+
+        if (limit.compareAndSet(current, current + 1)) {
+            Thread waiter = waiters.peek();
+            if (waiter != null) LockSupport.unpark(waiter);
+        }
+    }
+}
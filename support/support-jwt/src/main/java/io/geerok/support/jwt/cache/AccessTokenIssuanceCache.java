@@ -0,0 +1,172 @@
+package io.geerok.support.jwt.cache;
+
+import io.geerok.support.jwt.dto.AccessTokenPayload;
+import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.tokens.AccessToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Reuses an AccessToken issued for an identical payload within a short window,
+ * as long as it still has at least {@code minRemainingSeconds} of lifetime left.
+ * <p>
+ * Entries are also kept in insertion order, which is their expiry order, so stale ones are
+ * popped from the head a few at a time instead of scanning the whole map. Once {@code maxSize}
+ * is reached the oldest entries are evicted.
+ * <p>
+ * Invalidation bumps a per-user epoch (striped by userId). Callers read {@link #epoch} before signing
+ * and pass it to {@link #put}, so a token signed across an invalidation is never cached.
+ */
+@Slf4j
+@Component
+public class AccessTokenIssuanceCache {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final int EPOCH_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final long windowNanos;
+    private final long minRemainingSeconds;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<AccessTokenPayload, Entry> cache = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final AtomicLongArray epochs = new AtomicLongArray(EPOCH_STRIPES);
+
+    public AccessTokenIssuanceCache(JwtProperties jwtProperties) {
+        JwtProperties.IssuanceCache issuanceCache = jwtProperties.getIssuanceCache() != null
+                ? jwtProperties.getIssuanceCache()
+                : new JwtProperties.IssuanceCache();
+
+        this.enabled = issuanceCache.isEnabled();
+        this.windowNanos = TimeUnit.SECONDS.toNanos(issuanceCache.getWindowSeconds());
+        this.minRemainingSeconds = reachableMinRemainingSeconds(jwtProperties, issuanceCache);
+        this.maxSize = issuanceCache.getMaxSize();
+    }
+
+    /**
+     * A token reused at the end of the window has {@code expiresIn - windowSeconds} left,
+     * so a larger minimum would make every lookup miss.
+     */
+    private static long reachableMinRemainingSeconds(JwtProperties jwtProperties, JwtProperties.IssuanceCache issuanceCache) {
+        long minRemainingSeconds = issuanceCache.getMinRemainingSeconds();
+        if (!issuanceCache.isEnabled() || jwtProperties.getAccessToken() == null || jwtProperties.getAccessToken().getExpiresIn() == null) {
+            return minRemainingSeconds;
+        }
+
+        long reachable = Math.max(0, jwtProperties.getAccessToken().getExpiresIn() - issuanceCache.getWindowSeconds());
+        if (minRemainingSeconds > reachable) {
+            log.warn("support.jwt.issuance-cache.min-remaining-seconds ({}) exceeds access token expires-in minus window-seconds; clamped to {}",
+                    minRemainingSeconds, reachable);
+            return reachable;
+        }
+        return minRemainingSeconds;
+    }
+
+    public AccessToken get(AccessTokenPayload payload) {
+        if (!enabled) return null;
+
+        Entry entry = cache.get(payload);
+        if (entry == null) return null;
+
+        if (!isReusable(entry, System.nanoTime(), LocalDateTime.now(ZONE_ID))) {
+            cache.remove(payload, entry);
+            return null;
+        }
+        return entry.accessToken();
+    }
+
+    /**
+     * Returns the invalidation epoch for the payload's user. Read it before signing and pass it to {@link #put}.
+     */
+    public long epoch(AccessTokenPayload payload) {
+        return epochs.get(stripeOf(payload.userId()));
+    }
+
+    public void put(AccessTokenPayload payload, AccessToken accessToken, long epoch) {
+        if (!enabled || maxSize <= 0) return;
+
+        int stripe = stripeOf(payload.userId());
+        if (epochs.get(stripe) != epoch) return;
+
+        Entry entry = new Entry(keyOf(payload), accessToken, System.nanoTime());
+        evict(entry.issuedAtNanos());
+        cache.put(entry.key(), entry);
+        insertionOrder.offer(entry);
+
+        // invalidate() may have run between the check and the insert and missed this entry.
+        if (epochs.get(stripe) != epoch && cache.remove(entry.key(), entry)) {
+            insertionOrder.remove(entry);
+        }
+    }
+
+    public void invalidate(Long userId) {
+        epochs.incrementAndGet(stripeOf(userId));
+        cache.keySet().removeIf(payload -> Objects.equals(payload.userId(), userId));
+        insertionOrder.removeIf(entry -> Objects.equals(entry.key().userId(), userId));
+    }
+
+    public void invalidateAll() {
+        for (int stripe = 0; stripe < EPOCH_STRIPES; stripe++) {
+            epochs.incrementAndGet(stripe);
+        }
+        cache.clear();
+        insertionOrder.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Pops entries older than the window, then the oldest ones while the map is full.
+     * Only one thread evicts at a time; the others skip rather than wait.
+     */
+    private void evict(long nowNanos) {
+        if (!evicting.compareAndSet(false, true)) return;
+        try {
+            for (Entry head = insertionOrder.peek(); head != null; head = insertionOrder.peek()) {
+                if (nowNanos - head.issuedAtNanos() <= windowNanos && cache.size() < maxSize) break;
+
+                insertionOrder.poll();
+                cache.remove(head.key(), head);
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private boolean isReusable(Entry entry, long nowNanos, LocalDateTime now) {
+        return nowNanos - entry.issuedAtNanos() <= windowNanos
+                && !entry.accessToken().expiresAt().isBefore(now.plusSeconds(minRemainingSeconds));
+    }
+
+    private static int stripeOf(Long userId) {
+        return Objects.hashCode(userId) * 0x9E3779B9 >>> 22;
+    }
+
+    private static AccessTokenPayload keyOf(AccessTokenPayload payload) {
+        if (payload.authorities() == null) return payload;
+
+        return new AccessTokenPayload(
+                payload.userId(),
+                payload.nickname(),
+                Collections.unmodifiableList(new ArrayList<>(payload.authorities()))
+        );
+    }
+
+    private record Entry(AccessTokenPayload key, AccessToken accessToken, long issuedAtNanos) {
+    }
+}
@@ -1,6 +1,7 @@
 package io.geerok.support.jwt.dto;
 
 public record RefreshTokenPayload(
-        Long userId
+        Long userId,
+        String jti
 ) {
 }
@@ -0,0 +1,72 @@
+package io.geerok.support.jwt.event;
+
+import io.geerok.core.exception.AbstractException;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Base for the JFR events emitted by support-jwt.
+ * Disabled by default; enable them with {@code jfr/geerok-jwt.jfc}.
+ */
+@Category({"Geerok", "JWT"})
+@Enabled(false)
+@Threshold("0 ms")
+@StackTrace(false)
+public abstract class JwtEvent extends Event {
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILURE = "FAILURE";
+    public static final String CACHED = "CACHED";
+
+    @Label("Token Type")
+    public String tokenType;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("Error Code")
+    public String errorCode;
+
+    @Label("Payload Size")
+    @DataAmount
+    public int payloadSize;
+
+    protected JwtEvent(JwtTokenType tokenType) {
+        this.tokenType = tokenType.name();
+    }
+
+    public void success(String token) {
+        complete(SUCCESS, token);
+    }
+
+    public void cached(String token) {
+        complete(CACHED, token);
+    }
+
+    public void failure(String token, RuntimeException e) {
+        end();
+        if (shouldCommit()) {
+            outcome = FAILURE;
+            errorCode = e instanceof AbstractException abstractException ? abstractException.getErrorCode() : null;
+            payloadSize = sizeOf(token);
+            commit();
+        }
+    }
+
+    private void complete(String outcome, String token) {
+        end();
+        if (shouldCommit()) {
+            this.outcome = outcome;
+            payloadSize = sizeOf(token);
+            commit();
+        }
+    }
+
+    private static int sizeOf(String token) {
+        return token == null ? 0 : token.length();
+    }
+}
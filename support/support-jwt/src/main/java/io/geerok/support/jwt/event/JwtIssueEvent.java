@@ -0,0 +1,14 @@
+package io.geerok.support.jwt.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.geerok.jwt.Issue")
+@Label("JWT Issue")
+@Description("Signing of an access or refresh token by JwtProvider")
+public class JwtIssueEvent extends JwtEvent {
+    public JwtIssueEvent(JwtTokenType tokenType) {
+        super(tokenType);
+    }
+}
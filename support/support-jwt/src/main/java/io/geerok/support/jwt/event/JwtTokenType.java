@@ -0,0 +1,6 @@
+package io.geerok.support.jwt.event;
+
+public enum JwtTokenType {
+    ACCESS,
+    REFRESH,
+}
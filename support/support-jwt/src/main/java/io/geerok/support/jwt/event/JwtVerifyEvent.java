@@ -0,0 +1,14 @@
+package io.geerok.support.jwt.event;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("io.geerok.jwt.Verify")
+@Label("JWT Verify")
+@Description("Parsing and signature verification of an access or refresh token by JwtResolver")
+public class JwtVerifyEvent extends JwtEvent {
+    public JwtVerifyEvent(JwtTokenType tokenType) {
+        super(tokenType);
+    }
+}
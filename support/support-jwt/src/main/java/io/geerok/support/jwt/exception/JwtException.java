@@ -1,5 +1,6 @@
 package io.geerok.support.jwt.exception;
 
+import io.geerok.core.exception.ServiceUnavailableException;
 import io.geerok.core.exception.UnauthorizedException;
 import io.geerok.core.exception.utils.ExceptionInterface;
 import lombok.Getter;
@@ -13,6 +14,8 @@ public enum JwtException implements ExceptionInterface {
     REFRESH_TOKEN_NOT_FOUND("JWT-904", "로그인이 필요한 서비스입니다. 로그인 후 이용해 주세요.", UnauthorizedException.class),
     REFRESH_TOKEN_INVALID("JWT-905", "로그인 세션이 만료되었습니다. 다시 로그인해 주세요.", UnauthorizedException.class),
     REFRESH_TOKEN_EXPIRED("JWT-906", "로그인 세션이 만료되었습니다. 다시 로그인해 주세요.", UnauthorizedException.class),
+
+    TOKEN_OPERATION_OVERLOADED("JWT-907", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", ServiceUnavailableException.class),
     ;
 
     private final String errorCode;
@@ -10,6 +10,9 @@ import org.springframework.context.annotation.Configuration;
 public class JwtProperties {
     private JsonWebToken accessToken;
     private JsonWebToken refreshToken;
+    private Admission admission = new Admission();
+    private IssuanceCache issuanceCache = new IssuanceCache();
+    private RefreshTokenStore refreshTokenStore = new RefreshTokenStore();
 
     @Data
     public static class JsonWebToken {
@@ -17,4 +20,34 @@ public class JwtProperties {
         public String secretKey;
         public Long expiresIn;
     }
+
+    @Data
+    public static class Admission {
+        public boolean enabled = false;
+        public boolean adaptive = false;
+        public int limit = 64;
+        public int minLimit = 4;
+        public int maxLimit = 256;
+        public int queueSize = 16;
+        public long queueTimeoutMillis = 5;
+        public long latencyThresholdMillis = 50;
+        public double backoffRatio = 0.9;
+    }
+
+    @Data
+    public static class IssuanceCache {
+        public boolean enabled = false;
+        public long windowSeconds = 10;
+        public long minRemainingSeconds = 300;
+        public int maxSize = 10_000;
+    }
+
+    @Data
+    public static class RefreshTokenStore {
+        public boolean enabled = false;
+        public String directory = "data/refresh-tokens";
+        public int initialCapacity = 1 << 20;
+        public boolean syncOnWrite = false;
+        public boolean rejectUnknown = false;
+    }
 }
@@ -0,0 +1,10 @@
+package io.geerok.support.jwt.store;
+
+import java.time.LocalDateTime;
+
+public record RefreshTokenState(
+        String jti,
+        Long userId,
+        LocalDateTime expiresAt
+) {
+}
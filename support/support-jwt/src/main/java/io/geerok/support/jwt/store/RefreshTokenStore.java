@@ -0,0 +1,572 @@
+package io.geerok.support.jwt.store;
+
+import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.tokens.RefreshToken;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.StampedLock;
+
+import static io.geerok.support.jwt.store.RefreshTokenStoreFile.FLAG_ACTIVE;
+import static io.geerok.support.jwt.store.RefreshTokenStoreFile.FLAG_REVOKED;
+
+/**
+ * Persistent refresh-token state keyed by jti, kept off-heap in a memory-mapped file on the local filesystem.
+ * <p>
+ * Writes append to the current generation. Once half of it is used, a background thread copies the
+ * live records into the next generation in small read-locked chunks, so lookups and writes keep going.
+ * Only the replay of the last few writes and the swap, published by atomically renaming a
+ * pre-written {@code CURRENT} file, run under the write lock.
+ * Lookups use an optimistic read and only fall back to a read lock when a write interleaves.
+ * The directory is guarded by a lock on {@code LOCK}, so only one store can open it at a time.
+ * <p>
+ * The state is only valid for a single application instance on the local filesystem: tokens issued or
+ * revoked by other instances are never seen here. For that reason tokens unknown to the store are not
+ * rejected unless {@code rejectUnknown} is set.
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+    private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+    private static final String CURRENT = "CURRENT";
+    private static final String LOCK = "LOCK";
+    private static final String FILE_PREFIX = "refresh-tokens-";
+    private static final String FILE_SUFFIX = ".db";
+
+    private static final int COMPACTION_CHUNK = 4096;
+    private static final int COMPACTION_TAIL = 256;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final int initialCapacity;
+    private final boolean syncOnWrite;
+    private final boolean rejectUnknown;
+
+    private final StampedLock lock = new StampedLock();
+    private volatile RefreshTokenStoreFile file;
+    private long generation;
+
+    private FileChannel lockChannel;
+    private FileLock directoryLock;
+    private ExecutorService compactor;
+    private CompletableFuture<Void> compaction = CompletableFuture.completedFuture(null);
+    private volatile boolean closed;
+
+    public RefreshTokenStore(JwtProperties jwtProperties) {
+        JwtProperties.RefreshTokenStore refreshTokenStore = jwtProperties.getRefreshTokenStore() != null
+                ? jwtProperties.getRefreshTokenStore()
+                : new JwtProperties.RefreshTokenStore();
+
+        this.enabled = refreshTokenStore.isEnabled();
+        this.directory = Path.of(refreshTokenStore.getDirectory());
+        this.initialCapacity = refreshTokenStore.getInitialCapacity();
+        this.syncOnWrite = refreshTokenStore.isSyncOnWrite();
+        this.rejectUnknown = refreshTokenStore.isRejectUnknown();
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!enabled) return;
+
+        long stamp = lock.writeLock();
+        try {
+            synchronized (this) {
+                closed = false;
+            }
+            Files.createDirectories(directory);
+            lockDirectory();
+            open();
+            compactor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "refresh-token-store-compactor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } catch (IOException e) {
+            unlockDirectory();
+            throw new UncheckedIOException("Failed to open refresh token store: " + directory, e);
+        } catch (RuntimeException e) {
+            unlockDirectory();
+            throw e;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        awaitCompactionQuietly(beginClose());
+
+        long stamp = lock.writeLock();
+        try {
+            if (file == null) return;
+            file.close();
+            file = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close refresh token store: " + directory, e);
+        } finally {
+            lock.unlockWrite(stamp);
+            shutdown();
+        }
+    }
+
+    /**
+     * Releases the store without marking the current generation clean, as a crash would.
+     * The next {@link #init()} rebuilds the index from the log.
+     */
+    void discard() {
+        awaitCompactionQuietly(beginClose());
+
+        long stamp = lock.writeLock();
+        try {
+            if (file == null) return;
+            file.discard();
+            file = null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to discard refresh token store: " + directory, e);
+        } finally {
+            lock.unlockWrite(stamp);
+            shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void save(Long userId, RefreshToken refreshToken) {
+        if (!enabled) return;
+
+        UUID key = UUID.fromString(refreshToken.jti());
+        long expiresAt = refreshToken.expiresAt().atZone(ZONE_ID).toEpochSecond();
+        append(key, FLAG_ACTIVE, current -> new long[]{userId, expiresAt});
+    }
+
+    public void revoke(String jti) {
+        UUID key = parse(jti);
+        if (!enabled || key == null) return;
+
+        append(key, FLAG_REVOKED, current -> {
+            int record = current.find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+            if (record < 0 || current.flags(record) == FLAG_REVOKED) return null;
+            return new long[]{current.userId(record), current.expiresAt(record)};
+        });
+    }
+
+    /**
+     * Returns the state of an active, unexpired refresh token.
+     * Unknown, revoked and expired tokens are all reported as empty.
+     */
+    public Optional<RefreshTokenState> find(String jti) {
+        UUID key = parse(jti);
+        if (!enabled || key == null) return Optional.empty();
+
+        Lookup lookup = lookup(key);
+        if (lookup == null || !isLive(lookup)) {
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshTokenState(
+                jti,
+                lookup.userId(),
+                LocalDateTime.ofInstant(Instant.ofEpochSecond(lookup.expiresAt()), ZONE_ID)
+        ));
+    }
+
+    /**
+     * Whether a refresh token must be refused: it is revoked or expired here, or it is unknown to this
+     * store and {@code rejectUnknown} is set. Unknown tokens may have been issued before the store was
+     * enabled or by another instance, so they are accepted by default.
+     */
+    public boolean isRejected(String jti) {
+        if (!enabled) return false;
+
+        UUID key = parse(jti);
+        Lookup lookup = key == null ? null : lookup(key);
+        if (lookup == null) return rejectUnknown;
+        return !isLive(lookup);
+    }
+
+    /**
+     * Rewrites the live records into a new generation, dropping expired and revoked ones,
+     * and waits for it to finish.
+     */
+    public void compact() {
+        if (!enabled) return;
+
+        awaitCompaction();
+    }
+
+    /**
+     * Number of distinct jti keys in the current generation's index, including revoked and
+     * expired ones that have not been compacted away yet.
+     */
+    public int keyCount() {
+        long stamp = lock.readLock();
+        try {
+            return file == null ? 0 : file.slotCount();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void append(UUID key, int flags, RecordSource source) {
+        for (;;) {
+            long stamp = lock.writeLock();
+            try {
+                RefreshTokenStoreFile current = requireOpen();
+                if (current.hasRoom()) {
+                    long[] values = source.values(current);
+                    if (values == null) return;
+
+                    current.append(key.getMostSignificantBits(), key.getLeastSignificantBits(), values[0], values[1], flags);
+                    if (syncOnWrite) current.force();
+                    if (current.needsCompaction()) scheduleCompaction();
+                    return;
+                }
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+
+            // Only reached when writes outran a running compaction.
+            awaitCompaction();
+        }
+    }
+
+    private Lookup lookup(UUID key) {
+        long stamp = lock.tryOptimisticRead();
+        Lookup lookup = lookup(file, key);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                lookup = lookup(file, key);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return lookup;
+    }
+
+    /**
+     * Stops new compactions from being scheduled and returns the one that may still be running.
+     */
+    private synchronized CompletableFuture<Void> beginClose() {
+        closed = true;
+        return compaction;
+    }
+
+    private synchronized CompletableFuture<Void> scheduleCompaction() {
+        if (!closed && compaction.isDone() && compactor != null) {
+            compaction = CompletableFuture.runAsync(this::compactInBackground, compactor);
+        }
+        return compaction;
+    }
+
+    private void awaitCompaction() {
+        try {
+            scheduleCompaction().join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed to compact refresh token store: " + directory, e.getCause());
+        }
+    }
+
+    private void awaitCompactionQuietly(CompletableFuture<Void> running) {
+        try {
+            running.join();
+        } catch (CompletionException ignored) {
+
+        }
+    }
+
+    private void compactInBackground() {
+        RefreshTokenStoreFile current;
+        int snapshot;
+        long stamp = lock.readLock();
+        try {
+            if (closed || file == null) return;
+            current = file;
+            snapshot = current.recordCount();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+
+        long now = Instant.now().getEpochSecond();
+        long nextGeneration = generation + 1;
+        Path nextPath = pathOf(nextGeneration);
+        RefreshTokenStoreFile next = null;
+        try {
+            int live = countLive(current, snapshot, now);
+            Files.deleteIfExists(nextPath);
+            next = RefreshTokenStoreFile.create(nextPath, capacityFor(Math.max(initialCapacity, live * 4L + 1)));
+            copyLive(current, next, snapshot, now);
+
+            next.force();
+            syncDirectory();
+            Path pendingCurrent = prepareCurrent(nextGeneration);
+
+            // Replay what was written meanwhile in read-locked batches, then the last few under the write lock.
+            int replayed = snapshot;
+            while (current.recordCount() - replayed > COMPACTION_TAIL) {
+                stamp = lock.readLock();
+                try {
+                    replayed = replay(current, next, replayed, current.recordCount());
+                } finally {
+                    lock.unlockRead(stamp);
+                }
+            }
+
+            stamp = lock.writeLock();
+            try {
+                // The store is closing or no longer on this generation; leave CURRENT and its file untouched.
+                if (closed || file != current) {
+                    discardQuietly(next);
+                    Files.deleteIfExists(pendingCurrent);
+                    log.info("Refresh token store compaction aborted: {}", directory);
+                    return;
+                }
+
+                replay(current, next, replayed, current.recordCount());
+                if (syncOnWrite) next.force();
+                publishCurrent(pendingCurrent);
+                file = next;
+                generation = nextGeneration;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to compact refresh token store: {}", directory, e);
+            discardQuietly(next);
+            if (e instanceof IOException ioException) throw new UncheckedIOException(ioException);
+            throw (RuntimeException) e;
+        }
+
+        discardQuietly(current);
+        log.info("Refresh token store compacted: {} -> {} ({} keys from {} records)",
+                current.path().getFileName(), nextPath.getFileName(), next.slotCount(), current.recordCount());
+    }
+
+    private int countLive(RefreshTokenStoreFile current, int snapshot, long now) {
+        int live = 0;
+        for (int from = 0; from < current.slotCapacity(); from += COMPACTION_CHUNK) {
+            long stamp = lock.readLock();
+            try {
+                for (int slot = from; slot < Math.min(from + COMPACTION_CHUNK, current.slotCapacity()); slot++) {
+                    int record = current.recordAt(slot);
+                    if (record >= 0 && record < snapshot && isLive(current, record, now)) live++;
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return live;
+    }
+
+    /**
+     * Copies the latest record of each key written before the snapshot. Keys rewritten after the snapshot
+     * point past it and are picked up by the replay instead.
+     */
+    private void copyLive(RefreshTokenStoreFile current, RefreshTokenStoreFile next, int snapshot, long now) {
+        for (int from = 0; from < current.slotCapacity(); from += COMPACTION_CHUNK) {
+            long stamp = lock.readLock();
+            try {
+                for (int slot = from; slot < Math.min(from + COMPACTION_CHUNK, current.slotCapacity()); slot++) {
+                    int record = current.recordAt(slot);
+                    if (record >= 0 && record < snapshot && isLive(current, record, now)) {
+                        next.append(current.msb(record), current.lsb(record), current.userId(record), current.expiresAt(record), FLAG_ACTIVE);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    private int replay(RefreshTokenStoreFile current, RefreshTokenStoreFile next, int from, int to) {
+        for (int record = from; record < to; record++) {
+            if (!next.hasRoom()) throw new IllegalStateException("Refresh token store is full: " + next.path());
+            next.append(current.msb(record), current.lsb(record), current.userId(record), current.expiresAt(record), current.flags(record));
+        }
+        return to;
+    }
+
+    private void open() throws IOException {
+        Path currentPath = directory.resolve(CURRENT);
+        if (Files.exists(currentPath)) {
+            generation = Long.parseLong(Files.readString(currentPath, StandardCharsets.UTF_8).trim());
+            file = RefreshTokenStoreFile.open(pathOf(generation));
+        } else {
+            generation = 1;
+            Files.deleteIfExists(pathOf(generation));
+            file = RefreshTokenStoreFile.create(pathOf(generation), capacityFor(initialCapacity));
+            file.force();
+            syncDirectory();
+            writeCurrent(generation);
+        }
+        deleteStaleGenerations();
+        log.info("Refresh token store opened: {} ({} records)", file.path(), file.recordCount());
+    }
+
+    private void lockDirectory() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve(LOCK), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            directoryLock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            directoryLock = null;
+        }
+        if (directoryLock == null) {
+            throw new IllegalStateException("Refresh token store is already in use: " + directory);
+        }
+    }
+
+    private void unlockDirectory() {
+        try {
+            if (directoryLock != null) directoryLock.release();
+            if (lockChannel != null) lockChannel.close();
+        } catch (IOException e) {
+            log.warn("Failed to release refresh token store lock: {}", directory, e);
+        } finally {
+            directoryLock = null;
+            lockChannel = null;
+        }
+    }
+
+    /**
+     * Stops the compactor and waits for it before releasing {@code LOCK}, so no compaction
+     * can touch the directory once another store may have opened it.
+     */
+    private void shutdown() {
+        if (compactor != null) {
+            compactor.shutdown();
+            try {
+                if (!compactor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    log.warn("Refresh token store compactor did not stop in time: {}", directory);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            compactor = null;
+        }
+        unlockDirectory();
+    }
+
+    private void writeCurrent(long nextGeneration) throws IOException {
+        publishCurrent(prepareCurrent(nextGeneration));
+    }
+
+    private Path prepareCurrent(long nextGeneration) throws IOException {
+        Path tmp = directory.resolve(CURRENT + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(Long.toString(nextGeneration).getBytes(StandardCharsets.UTF_8)));
+            channel.force(true);
+        }
+        return tmp;
+    }
+
+    private void publishCurrent(Path tmp) throws IOException {
+        Files.move(tmp, directory.resolve(CURRENT), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        syncDirectory();
+    }
+
+    /**
+     * Makes created and renamed entries durable. Only supported where a directory can be opened as a channel.
+     */
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    private void deleteStaleGenerations() throws IOException {
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path path : paths) {
+                if (!path.equals(file.path())) Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void discardQuietly(RefreshTokenStoreFile target) {
+        if (target == null) return;
+        try {
+            target.discard();
+            Files.deleteIfExists(target.path());
+        } catch (IOException e) {
+            log.warn("Failed to delete refresh token store file: {}", target.path(), e);
+        }
+    }
+
+    private RefreshTokenStoreFile requireOpen() {
+        if (closed || file == null) throw new IllegalStateException("Refresh token store is not open: " + directory);
+        return file;
+    }
+
+    private Path pathOf(long generation) {
+        return directory.resolve(FILE_PREFIX + generation + FILE_SUFFIX);
+    }
+
+    private static boolean isLive(Lookup lookup) {
+        return lookup.flags() == FLAG_ACTIVE && lookup.expiresAt() > Instant.now().getEpochSecond();
+    }
+
+    private static boolean isLive(RefreshTokenStoreFile file, int record, long now) {
+        return file.flags(record) == FLAG_ACTIVE && file.expiresAt(record) > now;
+    }
+
+    private static int capacityFor(long entries) {
+        if (entries > RefreshTokenStoreFile.MAX_SLOT_CAPACITY) {
+            throw new IllegalStateException("Refresh token store capacity exceeded: " + entries);
+        }
+        return Math.max(16, Integer.highestOneBit((int) Math.max(entries - 1, 1)) << 1);
+    }
+
+    private static Lookup lookup(RefreshTokenStoreFile file, UUID key) {
+        if (file == null) return null;
+
+        int record = file.find(key.getMostSignificantBits(), key.getLeastSignificantBits());
+        if (record < 0) return null;
+        return new Lookup(file.userId(record), file.expiresAt(record), file.flags(record));
+    }
+
+    private static UUID parse(String jti) {
+        if (jti == null) return null;
+        try {
+            return UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordSource {
+        /**
+         * Returns {@code {userId, expiresAt}} for the record to append, or null to skip it.
+         */
+        long[] values(RefreshTokenStoreFile current);
+    }
+
+    private record Lookup(long userId, long expiresAt, int flags) {
+    }
+}
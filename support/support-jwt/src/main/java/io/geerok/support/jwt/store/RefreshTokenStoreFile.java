@@ -0,0 +1,306 @@
+package io.geerok.support.jwt.store;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * One generation of the refresh-token store, memory-mapped as
+ * {@code [header][hash index][append-only record log]}.
+ * <p>
+ * The index is an open-addressing table of longs ({@code fingerprint << 32 | recordIndex + 1}).
+ * Records are fixed-size and checksummed, so after an unclean shutdown the index is rebuilt
+ * from the log up to the first invalid record. A clean file is mapped as-is.
+ * Not thread-safe; {@link RefreshTokenStore} guards access.
+ */
+final class RefreshTokenStoreFile implements Closeable {
+    static final int FLAG_ACTIVE = 1;
+    static final int FLAG_REVOKED = 2;
+
+    private static final int MAGIC = 0x47525453;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int SLOT_CAPACITY_OFFSET = 8;
+    private static final int RECORD_CAPACITY_OFFSET = 12;
+    private static final int STATE_OFFSET = 16;
+    private static final int RECORD_COUNT_OFFSET = 20;
+    private static final int SLOT_COUNT_OFFSET = 24;
+
+    private static final int STATE_CLEAN = 0;
+    private static final int STATE_DIRTY = 1;
+
+    private static final int SLOT_SIZE = Long.BYTES;
+
+    // msb(8) lsb(8) userId(8) expiresAt(8) flags(4) crc(4)
+    private static final int RECORD_SIZE = 40;
+    private static final int USER_ID_OFFSET = 16;
+    private static final int EXPIRES_AT_OFFSET = 24;
+    private static final int FLAGS_OFFSET = 32;
+    private static final int CRC_OFFSET = 36;
+
+    static final int MAX_RECORD_CAPACITY = Integer.MAX_VALUE / RECORD_SIZE;
+    static final int MAX_SLOT_CAPACITY = 1 << 27;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer log;
+
+    private final int slotCapacity;
+    private final int recordCapacity;
+    private int recordCount;
+    private int slotCount;
+
+    private RefreshTokenStoreFile(Path path, FileChannel channel, int slotCapacity, int recordCapacity) throws IOException {
+        this.path = path;
+        this.channel = channel;
+        this.slotCapacity = slotCapacity;
+        this.recordCapacity = recordCapacity;
+
+        long indexSize = (long) slotCapacity * SLOT_SIZE;
+        this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.index = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE, indexSize);
+        this.log = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + indexSize, (long) recordCapacity * RECORD_SIZE);
+    }
+
+    static RefreshTokenStoreFile create(Path path, int slotCapacity) throws IOException {
+        if (Integer.bitCount(slotCapacity) != 1 || slotCapacity > MAX_SLOT_CAPACITY) {
+            throw new IllegalArgumentException("slotCapacity must be a power of two <= " + MAX_SLOT_CAPACITY + ": " + slotCapacity);
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            RefreshTokenStoreFile file = new RefreshTokenStoreFile(path, channel, slotCapacity, Math.min(slotCapacity, MAX_RECORD_CAPACITY));
+            file.header.putInt(MAGIC_OFFSET, MAGIC);
+            file.header.putInt(VERSION_OFFSET, VERSION);
+            file.header.putInt(SLOT_CAPACITY_OFFSET, file.slotCapacity);
+            file.header.putInt(RECORD_CAPACITY_OFFSET, file.recordCapacity);
+            file.header.putInt(STATE_OFFSET, STATE_DIRTY);
+            file.header.putInt(RECORD_COUNT_OFFSET, 0);
+            file.header.putInt(SLOT_COUNT_OFFSET, 0);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static RefreshTokenStoreFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Not a refresh token store file: " + path);
+            }
+
+            RefreshTokenStoreFile file = new RefreshTokenStoreFile(path, channel,
+                    header.getInt(SLOT_CAPACITY_OFFSET), header.getInt(RECORD_CAPACITY_OFFSET));
+            if (header.getInt(STATE_OFFSET) == STATE_CLEAN) {
+                file.recordCount = header.getInt(RECORD_COUNT_OFFSET);
+                file.slotCount = header.getInt(SLOT_COUNT_OFFSET);
+                file.header.putInt(STATE_OFFSET, STATE_DIRTY);
+                file.header.force();
+            } else {
+                file.recover();
+            }
+            return file;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int slotCapacity() {
+        return slotCapacity;
+    }
+
+    int recordCount() {
+        return recordCount;
+    }
+
+    int slotCount() {
+        return slotCount;
+    }
+
+    int recordCapacity() {
+        return recordCapacity;
+    }
+
+    boolean hasRoom() {
+        return recordCount < recordCapacity && slotCount < slotCapacity - (slotCapacity >>> 2);
+    }
+
+    /**
+     * Whether half the room is used, leaving the other half for writes while the next generation is built.
+     */
+    boolean needsCompaction() {
+        return recordCount >= recordCapacity >>> 1 || slotCount >= slotCapacity >>> 1;
+    }
+
+    void append(long msb, long lsb, long userId, long expiresAt, int flags) {
+        int record = recordCount;
+        int offset = record * RECORD_SIZE;
+        log.putLong(offset, msb);
+        log.putLong(offset + 8, lsb);
+        log.putLong(offset + USER_ID_OFFSET, userId);
+        log.putLong(offset + EXPIRES_AT_OFFSET, expiresAt);
+        log.putInt(offset + FLAGS_OFFSET, flags);
+        log.putInt(offset + CRC_OFFSET, checksum(offset));
+
+        upsert(msb, lsb, record);
+        recordCount = record + 1;
+        header.putInt(RECORD_COUNT_OFFSET, recordCount);
+        header.putInt(SLOT_COUNT_OFFSET, slotCount);
+    }
+
+    /**
+     * Returns the latest record index for the key, or -1. Never throws on a torn index,
+     * so it is safe to call under an optimistic read.
+     */
+    int find(long msb, long lsb) {
+        long hash = hash(msb, lsb);
+        int fingerprint = (int) (hash >>> 32);
+        int mask = slotCapacity - 1;
+        int slot = (int) hash & mask;
+        for (int probe = 0; probe < slotCapacity; probe++) {
+            long value = index.getLong(slot * SLOT_SIZE);
+            if (value == 0) return -1;
+
+            int record = (int) value - 1;
+            if ((int) (value >>> 32) == fingerprint && record >= 0 && record < recordCapacity && matches(record, msb, lsb)) {
+                return record;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the record index stored in the given slot, or -1 if the slot is empty.
+     */
+    int recordAt(int slot) {
+        long value = index.getLong(slot * SLOT_SIZE);
+        return value == 0 ? -1 : (int) value - 1;
+    }
+
+    long msb(int record) {
+        return log.getLong(record * RECORD_SIZE);
+    }
+
+    long lsb(int record) {
+        return log.getLong(record * RECORD_SIZE + 8);
+    }
+
+    long userId(int record) {
+        return log.getLong(record * RECORD_SIZE + USER_ID_OFFSET);
+    }
+
+    long expiresAt(int record) {
+        return log.getLong(record * RECORD_SIZE + EXPIRES_AT_OFFSET);
+    }
+
+    int flags(int record) {
+        return log.getInt(record * RECORD_SIZE + FLAGS_OFFSET);
+    }
+
+    void force() {
+        log.force();
+        index.force();
+        header.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        header.putInt(STATE_OFFSET, STATE_CLEAN);
+        header.force();
+        channel.close();
+    }
+
+    /**
+     * Closes without marking the file clean, e.g. when it has been superseded by compaction.
+     */
+    void discard() throws IOException {
+        channel.close();
+    }
+
+    private void recover() {
+        for (int offset = 0; offset < slotCapacity * SLOT_SIZE; offset += SLOT_SIZE) {
+            index.putLong(offset, 0L);
+        }
+        slotCount = 0;
+
+        int record = 0;
+        while (record < recordCapacity && isValid(record)) {
+            upsert(msb(record), lsb(record), record);
+            record++;
+        }
+        recordCount = record;
+
+        // Drop anything past the first torn record so it can never be replayed later.
+        for (int offset = record * RECORD_SIZE; offset < recordCapacity * RECORD_SIZE; offset += Long.BYTES) {
+            if (log.getLong(offset) != 0L) log.putLong(offset, 0L);
+        }
+        header.putInt(RECORD_COUNT_OFFSET, recordCount);
+        header.putInt(SLOT_COUNT_OFFSET, slotCount);
+    }
+
+    private void upsert(long msb, long lsb, int record) {
+        long hash = hash(msb, lsb);
+        long fingerprint = hash >>> 32;
+        int mask = slotCapacity - 1;
+        int slot = (int) hash & mask;
+        for (int probe = 0; probe < slotCapacity; probe++) {
+            long value = index.getLong(slot * SLOT_SIZE);
+            if (value == 0) {
+                slotCount++;
+                index.putLong(slot * SLOT_SIZE, (fingerprint << 32) | (record + 1L));
+                return;
+            }
+            if ((value >>> 32) == fingerprint && matches((int) value - 1, msb, lsb)) {
+                index.putLong(slot * SLOT_SIZE, (fingerprint << 32) | (record + 1L));
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        throw new IllegalStateException("Refresh token store index is full: " + path);
+    }
+
+    private boolean matches(int record, long msb, long lsb) {
+        return msb(record) == msb && lsb(record) == lsb;
+    }
+
+    private boolean isValid(int record) {
+        int flags = flags(record);
+        return (flags == FLAG_ACTIVE || flags == FLAG_REVOKED)
+                && log.getInt(record * RECORD_SIZE + CRC_OFFSET) == checksum(record * RECORD_SIZE);
+    }
+
+    private int checksum(int offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(log.slice(offset, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private static long hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,11 +1,16 @@
 package io.geerok.support.jwt;
 
+import io.geerok.support.jwt.admission.JwtAdmissionController;
+import io.geerok.support.jwt.cache.AccessTokenIssuanceCache;
 import io.geerok.support.jwt.dto.AccessTokenPayload;
+import io.geerok.support.jwt.fixture.JfrEventTestFixture;
 import io.geerok.support.jwt.fixture.JwtPropertiesTestFixture;
 import io.geerok.support.jwt.fixture.AccessTokenPayloadTestFixture;
 import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.store.RefreshTokenStore;
 import io.geerok.support.jwt.tokens.AccessToken;
 import io.geerok.support.jwt.tokens.RefreshToken;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -25,7 +30,12 @@ class JwtProviderTest {
     @BeforeEach
     void setUp() {
         jwtProperties = JwtPropertiesTestFixture.create();
-        jwtProvider = new JwtProvider(jwtProperties);
+        jwtProvider = new JwtProvider(
+                jwtProperties,
+                new JwtAdmissionController(jwtProperties),
+                new AccessTokenIssuanceCache(jwtProperties),
+                new RefreshTokenStore(jwtProperties)
+        );
         jwtProvider.init();
     }
 
@@ -80,6 +90,28 @@ class JwtProviderTest {
             LocalDateTime expectedMinExpiry = beforeGeneration.plusSeconds(jwtProperties.getAccessToken().getExpiresIn());
             assertThat(accessToken.expiresAt()).isAfterOrEqualTo(expectedMinExpiry.minusSeconds(1));
         }
+
+        @Test
+        @DisplayName("발급 캐시가 활성화되면 동일한 payload에 대해 같은 AccessToken을 반환한다")
+        void shouldReuseAccessTokenWhenIssuanceCacheEnabled() {
+            // given
+            jwtProperties.getIssuanceCache().setEnabled(true);
+            JwtProvider cachingProvider = new JwtProvider(
+                    jwtProperties,
+                    new JwtAdmissionController(jwtProperties),
+                    new AccessTokenIssuanceCache(jwtProperties),
+                    new RefreshTokenStore(jwtProperties)
+            );
+            cachingProvider.init();
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+
+            // when
+            AccessToken first = cachingProvider.generateAccessToken(payload);
+            AccessToken second = cachingProvider.generateAccessToken(AccessTokenPayloadTestFixture.create());
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
     }
 
     @Nested
@@ -130,4 +162,88 @@ class JwtProviderTest {
             assertThat(refreshToken.expiresAt()).isAfterOrEqualTo(expectedMinExpiry.minusSeconds(1));
         }
     }
+
+    @Nested
+    @DisplayName("JFR 이벤트")
+    class IssueEvent {
+
+        @Test
+        @DisplayName("AccessToken 생성 시 Issue 이벤트를 기록한다")
+        void shouldRecordIssueEventForAccessToken() {
+            // given
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+            AccessToken[] accessToken = new AccessToken[1];
+
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> accessToken[0] = jwtProvider.generateAccessToken(payload),
+                    JfrEventTestFixture.ISSUE_EVENT
+            );
+
+            // then
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.getFirst();
+            assertThat(event.getEventType().getName()).isEqualTo(JfrEventTestFixture.ISSUE_EVENT);
+            assertThat(event.getString("tokenType")).isEqualTo("ACCESS");
+            assertThat(event.getString("outcome")).isEqualTo("SUCCESS");
+            assertThat(event.getString("errorCode")).isNull();
+            assertThat(event.getInt("payloadSize")).isEqualTo(accessToken[0].token().length());
+        }
+
+        @Test
+        @DisplayName("RefreshToken 생성 시 Issue 이벤트를 기록한다")
+        void shouldRecordIssueEventForRefreshToken() {
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> jwtProvider.generateRefreshToken(1L),
+                    JfrEventTestFixture.ISSUE_EVENT
+            );
+
+            // then
+            assertThat(events).hasSize(1);
+            assertThat(events.getFirst().getString("tokenType")).isEqualTo("REFRESH");
+            assertThat(events.getFirst().getString("outcome")).isEqualTo("SUCCESS");
+            assertThat(events.getFirst().getInt("payloadSize")).isPositive();
+        }
+
+        @Test
+        @DisplayName("발급 캐시에서 AccessToken을 재사용하면 CACHED 결과로 기록한다")
+        void shouldRecordCachedIssueEventOnCacheHit() {
+            // given
+            jwtProperties.getIssuanceCache().setEnabled(true);
+            JwtProvider cachingProvider = new JwtProvider(
+                    jwtProperties,
+                    new JwtAdmissionController(jwtProperties),
+                    new AccessTokenIssuanceCache(jwtProperties),
+                    new RefreshTokenStore(jwtProperties)
+            );
+            cachingProvider.init();
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> {
+                        cachingProvider.generateAccessToken(payload);
+                        cachingProvider.generateAccessToken(payload);
+                    },
+                    JfrEventTestFixture.ISSUE_EVENT
+            );
+
+            // then
+            assertThat(events).extracting(event -> event.getString("outcome"))
+                    .containsExactly("SUCCESS", "CACHED");
+        }
+
+        @Test
+        @DisplayName("이벤트를 활성화하지 않으면 기록하지 않는다")
+        void shouldNotRecordIssueEventByDefault() {
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> jwtProvider.generateAccessToken(AccessTokenPayloadTestFixture.create())
+            );
+
+            // then
+            assertThat(events).isEmpty();
+        }
+    }
 }
@@ -1,19 +1,27 @@
 package io.geerok.support.jwt;
 
 import io.geerok.core.exception.UnauthorizedException;
+import io.geerok.support.jwt.admission.JwtAdmissionController;
+import io.geerok.support.jwt.cache.AccessTokenIssuanceCache;
 import io.geerok.support.jwt.dto.AccessTokenPayload;
 import io.geerok.support.jwt.dto.RefreshTokenPayload;
+import io.geerok.support.jwt.fixture.JfrEventTestFixture;
 import io.geerok.support.jwt.fixture.JwtPropertiesTestFixture;
 import io.geerok.support.jwt.fixture.AccessTokenPayloadTestFixture;
 import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.store.RefreshTokenStore;
 import io.geerok.support.jwt.tokens.AccessToken;
 import io.geerok.support.jwt.tokens.RefreshToken;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import tools.jackson.databind.ObjectMapper;
 
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,14 +35,22 @@ class JwtResolverTest {
 
     @BeforeEach
     void setUp() {
-        JwtProperties jwtProperties = JwtPropertiesTestFixture.create();
+        initialize(JwtPropertiesTestFixture.create());
+    }
+
+    private RefreshTokenStore initialize(JwtProperties jwtProperties) {
+        JwtAdmissionController admissionController = new JwtAdmissionController(jwtProperties);
+        RefreshTokenStore refreshTokenStore = new RefreshTokenStore(jwtProperties);
+        refreshTokenStore.init();
 
-        jwtProvider = new JwtProvider(jwtProperties);
+        jwtProvider = new JwtProvider(jwtProperties, admissionController, new AccessTokenIssuanceCache(jwtProperties), refreshTokenStore);
         jwtProvider.init();
 
         ObjectMapper objectMapper = new ObjectMapper();
-        jwtResolver = new JwtResolver(jwtProperties, objectMapper);
+        jwtResolver = new JwtResolver(jwtProperties, objectMapper, admissionController, refreshTokenStore);
         jwtResolver.init();
+
+        return refreshTokenStore;
     }
 
     @Nested
@@ -122,6 +138,7 @@ class JwtResolverTest {
 
             // then
             assertThat(extractedPayload.userId()).isEqualTo(userId);
+            assertThat(extractedPayload.jti()).isEqualTo(refreshToken.jti());
         }
 
         @Test
@@ -166,4 +183,178 @@ class JwtResolverTest {
                     .isInstanceOf(UnauthorizedException.class);
         }
     }
+
+    @Nested
+    @DisplayName("JFR 이벤트")
+    class VerifyEvent {
+
+        @Test
+        @DisplayName("유효한 AccessToken 파싱 시 Verify 이벤트를 기록한다")
+        void shouldRecordVerifyEventForValidAccessToken() {
+            // given
+            AccessToken accessToken = jwtProvider.generateAccessToken(AccessTokenPayloadTestFixture.create());
+
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> jwtResolver.getPayloadFromAccessToken(accessToken.token()),
+                    JfrEventTestFixture.VERIFY_EVENT
+            );
+
+            // then
+            assertThat(events).hasSize(1);
+            RecordedEvent event = events.getFirst();
+            assertThat(event.getString("tokenType")).isEqualTo("ACCESS");
+            assertThat(event.getString("outcome")).isEqualTo("SUCCESS");
+            assertThat(event.getString("errorCode")).isNull();
+            assertThat(event.getInt("payloadSize")).isEqualTo(accessToken.token().length());
+        }
+
+        @Test
+        @DisplayName("잘못된 AccessToken 파싱 시 실패 결과와 에러 코드를 기록한다")
+        void shouldRecordFailedVerifyEventForInvalidAccessToken() {
+            // given
+            String invalidToken = "invalid.token.format";
+
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> jwtResolver.getPayloadFromAccessToken(invalidToken),
+                    JfrEventTestFixture.VERIFY_EVENT,
+                    JfrEventTestFixture.EXCEPTION_CREATE_EVENT
+            );
+
+            // then
+            RecordedEvent verifyEvent = findEvent(events, JfrEventTestFixture.VERIFY_EVENT);
+            assertThat(verifyEvent.getString("tokenType")).isEqualTo("ACCESS");
+            assertThat(verifyEvent.getString("outcome")).isEqualTo("FAILURE");
+            assertThat(verifyEvent.getString("errorCode")).isEqualTo("JWT-902");
+            assertThat(verifyEvent.getInt("payloadSize")).isEqualTo(invalidToken.length());
+
+            RecordedEvent createEvent = findEvent(events, JfrEventTestFixture.EXCEPTION_CREATE_EVENT);
+            assertThat(createEvent.getString("errorCode")).isEqualTo("JWT-902");
+            assertThat(createEvent.getClass("exceptionClass").getName()).isEqualTo(UnauthorizedException.class.getName());
+            assertThat(createEvent.getBoolean("hasErrorLog")).isTrue();
+        }
+
+        @Test
+        @DisplayName("잘못된 RefreshToken 파싱 시 실패 결과와 에러 코드를 기록한다")
+        void shouldRecordFailedVerifyEventForInvalidRefreshToken() {
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> jwtResolver.getPayloadFromRefreshToken("invalid.token.format"),
+                    JfrEventTestFixture.VERIFY_EVENT
+            );
+
+            // then
+            assertThat(events).hasSize(1);
+            assertThat(events.getFirst().getString("tokenType")).isEqualTo("REFRESH");
+            assertThat(events.getFirst().getString("outcome")).isEqualTo("FAILURE");
+            assertThat(events.getFirst().getString("errorCode")).isEqualTo("JWT-905");
+        }
+
+        @Test
+        @DisplayName("이벤트를 활성화하지 않으면 기록하지 않는다")
+        void shouldNotRecordEventsByDefault() {
+            // when
+            List<RecordedEvent> events = JfrEventTestFixture.record(
+                    () -> jwtResolver.getPayloadFromAccessToken("invalid.token.format")
+            );
+
+            // then
+            assertThat(events).isEmpty();
+        }
+
+        private RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+            return events.stream()
+                    .filter(event -> event.getEventType().getName().equals(name))
+                    .findFirst()
+                    .orElseThrow();
+        }
+    }
+
+    @Nested
+    @DisplayName("RefreshToken 저장소 연동")
+    class WithRefreshTokenStore {
+
+        @TempDir
+        Path directory;
+
+        private JwtProperties jwtProperties;
+        private RefreshTokenStore refreshTokenStore;
+
+        @BeforeEach
+        void setUp() {
+            jwtProperties = JwtPropertiesTestFixture.create();
+            jwtProperties.getRefreshTokenStore().setEnabled(true);
+            jwtProperties.getRefreshTokenStore().setDirectory(directory.toString());
+            jwtProperties.getRefreshTokenStore().setInitialCapacity(16);
+            refreshTokenStore = initialize(jwtProperties);
+        }
+
+        @AfterEach
+        void tearDown() {
+            refreshTokenStore.close();
+        }
+
+        private RefreshToken generateUnstoredRefreshToken(Long userId) {
+            JwtProperties statelessProperties = JwtPropertiesTestFixture.create();
+            JwtProvider statelessProvider = new JwtProvider(statelessProperties, new JwtAdmissionController(statelessProperties),
+                    new AccessTokenIssuanceCache(statelessProperties), new RefreshTokenStore(statelessProperties));
+            statelessProvider.init();
+            return statelessProvider.generateRefreshToken(userId);
+        }
+
+        @Test
+        @DisplayName("저장소에 있는 RefreshToken에서 payload를 추출한다")
+        void shouldExtractPayloadFromStoredRefreshToken() {
+            // given
+            RefreshToken refreshToken = jwtProvider.generateRefreshToken(1L);
+
+            // when
+            RefreshTokenPayload extractedPayload = jwtResolver.getPayloadFromRefreshToken(refreshToken.token());
+
+            // then
+            assertThat(extractedPayload.userId()).isEqualTo(1L);
+            assertThat(refreshTokenStore.find(refreshToken.jti())).isPresent();
+        }
+
+        @Test
+        @DisplayName("폐기된 RefreshToken이 주어지면 예외를 발생시킨다")
+        void shouldThrowExceptionWhenRefreshTokenRevoked() {
+            // given
+            RefreshToken refreshToken = jwtProvider.generateRefreshToken(1L);
+            refreshTokenStore.revoke(refreshToken.jti());
+
+            // when & then
+            assertThatThrownBy(() -> jwtResolver.getPayloadFromRefreshToken(refreshToken.token()))
+                    .isInstanceOf(UnauthorizedException.class);
+        }
+
+        @Test
+        @DisplayName("저장소에 없는 RefreshToken은 기본적으로 허용한다")
+        void shouldAcceptUnknownRefreshTokenByDefault() {
+            // given
+            RefreshToken refreshToken = generateUnstoredRefreshToken(1L);
+
+            // when
+            RefreshTokenPayload extractedPayload = jwtResolver.getPayloadFromRefreshToken(refreshToken.token());
+
+            // then
+            assertThat(extractedPayload.userId()).isEqualTo(1L);
+            assertThat(refreshTokenStore.find(refreshToken.jti())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("rejectUnknown이 설정되면 저장소에 없는 RefreshToken은 예외를 발생시킨다")
+        void shouldThrowExceptionWhenUnknownRefreshTokenRejected() {
+            // given
+            refreshTokenStore.close();
+            jwtProperties.getRefreshTokenStore().setRejectUnknown(true);
+            refreshTokenStore = initialize(jwtProperties);
+            RefreshToken refreshToken = generateUnstoredRefreshToken(1L);
+
+            // when & then
+            assertThatThrownBy(() -> jwtResolver.getPayloadFromRefreshToken(refreshToken.token()))
+                    .isInstanceOf(UnauthorizedException.class);
+        }
+    }
 }
@@ -0,0 +1,224 @@
+package io.geerok.support.jwt.admission;
+
+import io.geerok.core.exception.AbstractException;
+import io.geerok.core.exception.ServiceUnavailableException;
+import io.geerok.support.jwt.fixture.JwtPropertiesTestFixture;
+import io.geerok.support.jwt.properties.JwtProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtAdmissionController 테스트")
+class JwtAdmissionControllerTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private JwtAdmissionController createController(boolean enabled, int limit, int queueSize, long queueTimeoutMillis) {
+        JwtProperties jwtProperties = JwtPropertiesTestFixture.create();
+        JwtProperties.Admission admission = jwtProperties.getAdmission();
+        admission.setEnabled(enabled);
+        admission.setLimit(limit);
+        admission.setMinLimit(1);
+        admission.setQueueSize(queueSize);
+        admission.setQueueTimeoutMillis(queueTimeoutMillis);
+        return new JwtAdmissionController(jwtProperties);
+    }
+
+    private void occupy(JwtAdmissionController controller, CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.submit(() -> controller.execute(() -> {
+            started.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Nested
+    @DisplayName("동시성 제한")
+    class ConcurrencyLimit {
+
+        @Test
+        @DisplayName("비활성화 상태에서는 제한 없이 실행한다")
+        void shouldPassThroughWhenDisabled() throws InterruptedException {
+            // given
+            JwtAdmissionController controller = createController(false, 1, 0, 10);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(controller, release);
+
+            // when
+            String result = controller.execute(() -> "ok");
+
+            // then
+            assertThat(result).isEqualTo("ok");
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("제한을 초과하고 대기열이 가득 차면 ServiceUnavailableException을 발생시킨다")
+        void shouldRejectWhenLimitExceeded() throws InterruptedException {
+            // given
+            JwtAdmissionController controller = createController(true, 1, 0, 10);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(controller, release);
+
+            // when & then
+            assertThatThrownBy(() -> controller.execute(() -> "ok"))
+                    .isInstanceOf(ServiceUnavailableException.class)
+                    .extracting(e -> ((AbstractException) e).getErrorCode())
+                    .isEqualTo("JWT-907");
+            assertThat(controller.snapshot().rejected()).isEqualTo(1);
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("대기 시간 내에 자리가 나면 대기열의 요청을 실행한다")
+        void shouldAdmitQueuedRequestWhenReleased() throws Exception {
+            // given
+            JwtAdmissionController controller = createController(true, 1, 1, 5_000);
+            CountDownLatch release = new CountDownLatch(1);
+            occupy(controller, release);
+
+            // when
+            Future<String> queued = executor.submit(() -> controller.execute(() -> "ok"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (controller.snapshot().queued() == 0) {
+                assertThat(System.nanoTime()).as("request was not queued in time").isLessThan(deadline);
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            // then
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            assertThat(controller.snapshot().inFlight()).isZero();
+            assertThat(controller.snapshot().queued()).isZero();
+        }
+
+        @Test
+        @DisplayName("작업이 예외를 던져도 슬롯을 반환한다")
+        void shouldReleaseSlotWhenOperationThrows() {
+            // given
+            JwtAdmissionController controller = createController(true, 1, 0, 10);
+
+            // when
+            assertThatThrownBy(() -> controller.execute(() -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            // then
+            assertThat(controller.snapshot().inFlight()).isZero();
+            assertThat(controller.execute(() -> "ok")).isEqualTo("ok");
+        }
+    }
+
+    @Nested
+    @DisplayName("적응형 제한")
+    class AdaptiveLimit {
+
+        @Test
+        @DisplayName("지연 시간이 임계값을 넘으면 제한을 줄인다")
+        void shouldDecreaseLimitWhenLatencyExceedsThreshold() {
+            // given
+            JwtProperties jwtProperties = JwtPropertiesTestFixture.create();
+            JwtProperties.Admission admission = jwtProperties.getAdmission();
+            admission.setEnabled(true);
+            admission.setAdaptive(true);
+            admission.setLimit(10);
+            admission.setMinLimit(1);
+            admission.setLatencyThresholdMillis(0);
+            admission.setBackoffRatio(0.5);
+            JwtAdmissionController controller = new JwtAdmissionController(jwtProperties);
+
+            // when
+            controller.execute(() -> {
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+
+            // then
+            assertThat(controller.snapshot().limit()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("같은 지연 구간에 느린 요청이 여러 번 끝나도 제한은 한 번만 줄인다")
+        void shouldDecreaseLimitOncePerLatencyWindow() throws Exception {
+            // given
+            JwtProperties jwtProperties = JwtPropertiesTestFixture.create();
+            JwtProperties.Admission admission = jwtProperties.getAdmission();
+            admission.setEnabled(true);
+            admission.setAdaptive(true);
+            admission.setLimit(16);
+            admission.setMinLimit(1);
+            admission.setLatencyThresholdMillis(500);
+            admission.setBackoffRatio(0.5);
+            JwtAdmissionController controller = new JwtAdmissionController(jwtProperties);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> controller.execute(() -> {
+                    try {
+                        start.await(5, TimeUnit.SECONDS);
+                        Thread.sleep(600);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return null;
+                })));
+            }
+            start.countDown();
+            for (Future<Object> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(controller.snapshot().limit()).isEqualTo(8);
+        }
+
+        @Test
+        @DisplayName("지연 시간이 짧고 사용률이 높으면 제한을 늘린다")
+        void shouldIncreaseLimitWhenLatencyIsLow() {
+            // given
+            JwtProperties jwtProperties = JwtPropertiesTestFixture.create();
+            JwtProperties.Admission admission = jwtProperties.getAdmission();
+            admission.setEnabled(true);
+            admission.setAdaptive(true);
+            admission.setLimit(1);
+            admission.setMinLimit(1);
+            admission.setLatencyThresholdMillis(10_000);
+            JwtAdmissionController controller = new JwtAdmissionController(jwtProperties);
+
+            // when
+            controller.execute(() -> "ok");
+
+            // then
+            assertThat(controller.snapshot().limit()).isEqualTo(2);
+        }
+    }
+}
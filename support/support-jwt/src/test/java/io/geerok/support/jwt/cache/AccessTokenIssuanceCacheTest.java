@@ -0,0 +1,196 @@
+package io.geerok.support.jwt.cache;
+
+import io.geerok.support.jwt.dto.AccessTokenPayload;
+import io.geerok.support.jwt.fixture.AccessTokenPayloadTestFixture;
+import io.geerok.support.jwt.fixture.JwtPropertiesTestFixture;
+import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.tokens.AccessToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AccessTokenIssuanceCache 테스트")
+class AccessTokenIssuanceCacheTest {
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = JwtPropertiesTestFixture.create();
+        jwtProperties.getIssuanceCache().setEnabled(true);
+    }
+
+    private AccessToken createAccessToken(long expiresInSeconds) {
+        return AccessToken.create("token", LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusSeconds(expiresInSeconds));
+    }
+
+    private void put(AccessTokenIssuanceCache cache, AccessTokenPayload payload, AccessToken accessToken) {
+        cache.put(payload, accessToken, cache.epoch(payload));
+    }
+
+    @Nested
+    @DisplayName("캐시 조회")
+    class Get {
+
+        @Test
+        @DisplayName("비활성화 상태에서는 캐시하지 않는다")
+        void shouldNotCacheWhenDisabled() {
+            // given
+            jwtProperties.getIssuanceCache().setEnabled(false);
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+
+            // when
+            put(cache, payload, createAccessToken(1800));
+
+            // then
+            assertThat(cache.get(payload)).isNull();
+        }
+
+        @Test
+        @DisplayName("동일한 payload로 발급된 AccessToken을 반환한다")
+        void shouldReturnCachedTokenForEqualPayload() {
+            // given
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            List<String> authorities = new ArrayList<>(List.of("ROLE_USER"));
+            AccessToken accessToken = createAccessToken(1800);
+            put(cache, AccessTokenPayloadTestFixture.create(1L, "testUser", authorities), accessToken);
+            authorities.add("ROLE_ADMIN");
+
+            // when
+            AccessToken cached = cache.get(AccessTokenPayloadTestFixture.create());
+
+            // then
+            assertThat(cached).isSameAs(accessToken);
+        }
+
+        @Test
+        @DisplayName("남은 유효 시간이 부족한 AccessToken은 반환하지 않는다")
+        void shouldNotReturnTokenWithInsufficientLifetime() {
+            // given
+            jwtProperties.getIssuanceCache().setMinRemainingSeconds(300);
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+            put(cache, payload, createAccessToken(60));
+
+            // when & then
+            assertThat(cache.get(payload)).isNull();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("minRemainingSeconds가 만료 시간보다 길면 도달 가능한 값으로 보정한다")
+        void shouldClampMinRemainingSecondsToExpiresIn() {
+            // given
+            jwtProperties.getAccessToken().setExpiresIn(120L);
+            jwtProperties.getIssuanceCache().setMinRemainingSeconds(300);
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+            AccessToken accessToken = createAccessToken(120);
+            put(cache, payload, accessToken);
+
+            // when
+            AccessToken cached = cache.get(payload);
+
+            // then
+            assertThat(cached).isSameAs(accessToken);
+        }
+
+        @Test
+        @DisplayName("재사용 기간이 지난 AccessToken은 반환하지 않는다")
+        void shouldNotReturnTokenOutsideWindow() throws InterruptedException {
+            // given
+            jwtProperties.getIssuanceCache().setWindowSeconds(0);
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+            put(cache, payload, createAccessToken(1800));
+            Thread.sleep(1);
+
+            // when & then
+            assertThat(cache.get(payload)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시 관리")
+    class Management {
+
+        @Test
+        @DisplayName("사용자 단위로 캐시를 무효화한다")
+        void shouldInvalidateByUserId() {
+            // given
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload user1 = AccessTokenPayloadTestFixture.create(1L, "user1", List.of("ROLE_USER"));
+            AccessTokenPayload user2 = AccessTokenPayloadTestFixture.create(2L, "user2", List.of("ROLE_USER"));
+            put(cache, user1, createAccessToken(1800));
+            put(cache, user2, createAccessToken(1800));
+
+            // when
+            cache.invalidate(1L);
+
+            // then
+            assertThat(cache.get(user1)).isNull();
+            assertThat(cache.get(user2)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("발급 도중 무효화되면 발급된 AccessToken을 캐시하지 않는다")
+        void shouldDropPutAfterConcurrentInvalidate() {
+            // given
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+            long epoch = cache.epoch(payload);
+            assertThat(cache.get(payload)).isNull();
+
+            // when
+            cache.invalidate(payload.userId());
+            cache.put(payload, createAccessToken(1800), epoch);
+
+            // then
+            assertThat(cache.get(payload)).isNull();
+            assertThat(cache.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("무효화 이후 새로 발급된 AccessToken은 캐시한다")
+        void shouldCacheAfterInvalidate() {
+            // given
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+            AccessTokenPayload payload = AccessTokenPayloadTestFixture.create();
+            put(cache, payload, createAccessToken(1800));
+            cache.invalidate(payload.userId());
+
+            // when
+            put(cache, payload, createAccessToken(1800));
+
+            // then
+            assertThat(cache.get(payload)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("최대 크기를 넘으면 가장 오래된 항목부터 제거한다")
+        void shouldEvictOldestWhenMaxSizeExceeded() {
+            // given
+            jwtProperties.getIssuanceCache().setMaxSize(2);
+            AccessTokenIssuanceCache cache = new AccessTokenIssuanceCache(jwtProperties);
+
+            // when
+            for (long userId = 1; userId <= 5; userId++) {
+                put(cache, AccessTokenPayloadTestFixture.create(userId, "user" + userId, List.of("ROLE_USER")), createAccessToken(1800));
+            }
+
+            // then
+            assertThat(cache.size()).isEqualTo(2);
+            assertThat(cache.get(AccessTokenPayloadTestFixture.create(1L, "user1", List.of("ROLE_USER")))).isNull();
+            assertThat(cache.get(AccessTokenPayloadTestFixture.create(5L, "user5", List.of("ROLE_USER")))).isNotNull();
+        }
+    }
+}
@@ -0,0 +1,273 @@
+package io.geerok.support.jwt.store;
+
+import io.geerok.support.jwt.fixture.JwtPropertiesTestFixture;
+import io.geerok.support.jwt.properties.JwtProperties;
+import io.geerok.support.jwt.tokens.RefreshToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("RefreshTokenStore 테스트")
+class RefreshTokenStoreTest {
+
+    @TempDir
+    Path directory;
+
+    private final List<RefreshTokenStore> stores = new ArrayList<>();
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = openStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stores.forEach(RefreshTokenStore::close);
+    }
+
+    private RefreshTokenStore openStore() {
+        JwtProperties jwtProperties = JwtPropertiesTestFixture.create();
+        jwtProperties.getRefreshTokenStore().setEnabled(true);
+        jwtProperties.getRefreshTokenStore().setDirectory(directory.toString());
+        jwtProperties.getRefreshTokenStore().setInitialCapacity(16);
+
+        RefreshTokenStore store = new RefreshTokenStore(jwtProperties);
+        store.init();
+        stores.add(store);
+        return store;
+    }
+
+    private RefreshToken createRefreshToken(long expiresInSeconds) {
+        LocalDateTime expiresAt = LocalDateTime.now(ZoneId.of("Asia/Seoul")).plusSeconds(expiresInSeconds).withNano(0);
+        return RefreshToken.create(UUID.randomUUID().toString(), "token", expiresAt);
+    }
+
+    @Nested
+    @DisplayName("저장 및 조회")
+    class SaveAndFind {
+
+        @Test
+        @DisplayName("저장한 RefreshToken 상태를 jti로 조회한다")
+        void shouldFindSavedRefreshToken() {
+            // given
+            RefreshToken refreshToken = createRefreshToken(1800);
+
+            // when
+            refreshTokenStore.save(1L, refreshToken);
+
+            // then
+            assertThat(refreshTokenStore.find(refreshToken.jti()))
+                    .hasValue(new RefreshTokenState(refreshToken.jti(), 1L, refreshToken.expiresAt()));
+        }
+
+        @Test
+        @DisplayName("저장되지 않았거나 형식이 잘못된 jti는 조회되지 않는다")
+        void shouldNotFindUnknownJti() {
+            // when & then
+            assertThat(refreshTokenStore.find(UUID.randomUUID().toString())).isEmpty();
+            assertThat(refreshTokenStore.find("not-a-uuid")).isEmpty();
+            assertThat(refreshTokenStore.find(null)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("만료된 RefreshToken은 조회되지 않는다")
+        void shouldNotFindExpiredRefreshToken() {
+            // given
+            RefreshToken refreshToken = createRefreshToken(-1);
+
+            // when
+            refreshTokenStore.save(1L, refreshToken);
+
+            // then
+            assertThat(refreshTokenStore.find(refreshToken.jti())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("폐기된 RefreshToken은 조회되지 않는다")
+        void shouldNotFindRevokedRefreshToken() {
+            // given
+            RefreshToken refreshToken = createRefreshToken(1800);
+            refreshTokenStore.save(1L, refreshToken);
+
+            // when
+            refreshTokenStore.revoke(refreshToken.jti());
+
+            // then
+            assertThat(refreshTokenStore.find(refreshToken.jti())).isEmpty();
+        }
+
+        @Test
+        @DisplayName("폐기되거나 만료된 jti만 거부하고 알 수 없는 jti는 허용한다")
+        void shouldRejectOnlyKnownRevokedOrExpiredJti() {
+            // given
+            RefreshToken active = createRefreshToken(1800);
+            RefreshToken expired = createRefreshToken(-1);
+            RefreshToken revoked = createRefreshToken(1800);
+            refreshTokenStore.save(1L, active);
+            refreshTokenStore.save(2L, expired);
+            refreshTokenStore.save(3L, revoked);
+            refreshTokenStore.revoke(revoked.jti());
+
+            // when & then
+            assertThat(refreshTokenStore.isRejected(active.jti())).isFalse();
+            assertThat(refreshTokenStore.isRejected(expired.jti())).isTrue();
+            assertThat(refreshTokenStore.isRejected(revoked.jti())).isTrue();
+            assertThat(refreshTokenStore.isRejected(UUID.randomUUID().toString())).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("영속성")
+    class Persistence {
+
+        @Test
+        @DisplayName("정상 종료 후 다시 열면 저장된 상태를 유지한다")
+        void shouldKeepStateAfterReopen() {
+            // given
+            RefreshToken refreshToken = createRefreshToken(1800);
+            refreshTokenStore.save(1L, refreshToken);
+            refreshTokenStore.close();
+
+            // when
+            RefreshTokenStore reopened = openStore();
+
+            // then
+            assertThat(reopened.find(refreshToken.jti())).isPresent();
+            assertThat(reopened.keyCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비정상 종료 후 다시 열면 로그로부터 인덱스를 복구한다")
+        void shouldRecoverAfterCrash() {
+            // given
+            RefreshToken active = createRefreshToken(1800);
+            RefreshToken revoked = createRefreshToken(1800);
+            refreshTokenStore.save(1L, active);
+            refreshTokenStore.save(2L, revoked);
+            refreshTokenStore.revoke(revoked.jti());
+            refreshTokenStore.discard();
+
+            // when
+            RefreshTokenStore recovered = openStore();
+
+            // then
+            assertThat(recovered.find(active.jti())).isPresent();
+            assertThat(recovered.find(revoked.jti())).isEmpty();
+            assertThat(recovered.keyCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("디렉터리 잠금")
+    class DirectoryLock {
+
+        @Test
+        @DisplayName("이미 열려 있는 디렉터리는 다시 열 수 없다")
+        void shouldFailWhenDirectoryAlreadyInUse() {
+            // when & then
+            assertThatThrownBy(RefreshTokenStoreTest.this::openStore)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already in use");
+        }
+
+        @Test
+        @DisplayName("닫은 뒤에는 다시 열 수 있다")
+        void shouldReopenAfterClose() {
+            // given
+            refreshTokenStore.close();
+
+            // when & then
+            assertThat(openStore().isEnabled()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class Compaction {
+
+        @Test
+        @DisplayName("만료되거나 폐기된 RefreshToken을 제거한다")
+        void shouldDropExpiredAndRevokedRecords() {
+            // given
+            RefreshToken active = createRefreshToken(1800);
+            RefreshToken expired = createRefreshToken(-1);
+            RefreshToken revoked = createRefreshToken(1800);
+            refreshTokenStore.save(1L, active);
+            refreshTokenStore.save(2L, expired);
+            refreshTokenStore.save(3L, revoked);
+            refreshTokenStore.revoke(revoked.jti());
+
+            // when
+            refreshTokenStore.compact();
+
+            // then
+            assertThat(refreshTokenStore.keyCount()).isEqualTo(1);
+            assertThat(refreshTokenStore.find(active.jti())).isPresent();
+        }
+
+        @Test
+        @DisplayName("용량이 부족하면 압축하며 새 세대로 확장한다")
+        void shouldGrowWhenFull() throws Exception {
+            // given
+            List<RefreshToken> refreshTokens = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                refreshTokens.add(createRefreshToken(1800));
+            }
+
+            // when
+            refreshTokens.forEach(refreshToken -> refreshTokenStore.save(1L, refreshToken));
+
+            // then
+            assertThat(refreshTokens).allSatisfy(refreshToken ->
+                    assertThat(refreshTokenStore.find(refreshToken.jti())).isPresent());
+            refreshTokenStore.compact();
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.filter(path -> path.getFileName().toString().endsWith(".db"))).hasSize(1);
+            }
+        }
+
+        @Test
+        @DisplayName("압축 중에 닫아도 CURRENT가 가리키는 세대만 남는다")
+        void shouldKeepCurrentGenerationWhenClosedDuringCompaction() throws Exception {
+            // given
+            List<RefreshToken> refreshTokens = new ArrayList<>();
+            for (int i = 0; i < 20_000; i++) {
+                RefreshToken refreshToken = createRefreshToken(1800);
+                refreshTokens.add(refreshToken);
+                refreshTokenStore.save(1L, refreshToken);
+            }
+            CompletableFuture<Void> compaction = CompletableFuture.runAsync(refreshTokenStore::compact);
+
+            // when
+            refreshTokenStore.close();
+            compaction.join();
+
+            // then
+            String generation = Files.readString(directory.resolve("CURRENT")).trim();
+            try (Stream<Path> files = Files.list(directory)) {
+                assertThat(files.map(path -> path.getFileName().toString()).filter(name -> name.startsWith("refresh-tokens-") || name.startsWith("CURRENT.")))
+                        .containsExactly("refresh-tokens-" + generation + ".db");
+            }
+            RefreshTokenStore reopened = openStore();
+            assertThat(refreshTokens).allSatisfy(refreshToken ->
+                    assertThat(reopened.find(refreshToken.jti())).isPresent());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.geerok.support.jwt.fixture;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+public class JfrEventTestFixture {
+    public static final String ISSUE_EVENT = "io.geerok.jwt.Issue";
+    public static final String VERIFY_EVENT = "io.geerok.jwt.Verify";
+    public static final String EXCEPTION_CREATE_EVENT = "io.geerok.exception.Create";
+
+    /**
+     * Runs the action in a recording with only the given events enabled and returns the Geerok events emitted on this thread.
+     */
+    public static List<RecordedEvent> record(Runnable action, String... enabledEvents) {
+        try (Recording recording = new Recording()) {
+            for (String enabledEvent : enabledEvents) {
+                recording.enable(enabledEvent).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            try {
+                action.run();
+            } catch (RuntimeException ignored) {
+
+            }
+            recording.stop();
+
+            Path file = Files.createTempFile("geerok-jwt", ".jfr");
+            try {
+                recording.dump(file);
+                long threadId = Thread.currentThread().threadId();
+                return RecordingFile.readAllEvents(file).stream()
+                        .filter(event -> event.getEventType().getName().startsWith("io.geerok."))
+                        .filter(event -> event.getThread() != null && event.getThread().getJavaThreadId() == threadId)
+                        .toList();
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}